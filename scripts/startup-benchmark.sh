@@ -0,0 +1,151 @@
+#!/usr/bin/env bash
+#
+# Measures startup time, time-to-first-request and resident memory for the JVM and native builds.
+#
+# Usage: [PORT=8080] [POLL_INTERVAL=0.001] scripts/startup-benchmark.sh [jvm|native|all] [runs]
+#
+# Build the artifacts first:
+#   jvm:    mvn package
+#   native: mvn package -Pnative
+#
+# Startup is the time Micronaut reports in its "Startup completed" log line. Time-to-first-request is measured
+# from launch by polling GET /reservation every POLL_INTERVAL seconds, so it is only accurate to about that
+# interval. Requires bash 5 (EPOCHREALTIME) and /proc.
+set -euo pipefail
+
+MODE=${1:-all}
+RUNS=${2:-5}
+PORT=${PORT:-8080}
+POLL_INTERVAL=${POLL_INTERVAL:-0.001}
+TARGET_DIR="$(cd "$(dirname "$0")/.." && pwd)/target"
+
+JAR="${TARGET_DIR}/reservation-api-1.0.0-SNAPSHOT.jar"
+NATIVE="${TARGET_DIR}/reservation-api"
+
+if ! [[ "${RUNS}" =~ ^[1-9][0-9]*$ ]]; then
+    echo "runs must be a positive integer, got '${RUNS}'" >&2
+    exit 1
+fi
+
+SERVER_PID=
+SERVER_LOG=$(mktemp)
+
+# make sure a failed or interrupted run doesn't leave a server holding the port
+stop_server() {
+    if [[ -n "${SERVER_PID}" ]] && kill -0 "${SERVER_PID}" 2> /dev/null; then
+        kill "${SERVER_PID}"
+        wait "${SERVER_PID}" 2> /dev/null || true
+    fi
+    SERVER_PID=
+}
+
+cleanup() {
+    stop_server
+    rm -f "${SERVER_LOG}"
+}
+trap cleanup EXIT
+trap 'exit 130' INT TERM
+
+# microseconds since the epoch, stored in NOW_US to avoid forking a subshell
+now_us() {
+    NOW_US=${EPOCHREALTIME/[.,]/}
+}
+
+rss_kb() {
+    awk '/VmRSS/ {print $2}' "/proc/$1/status"
+}
+
+# true if anything accepts connections on the port, answering or not
+port_in_use() {
+    { exec 3<> "/dev/tcp/127.0.0.1/${PORT}"; } 2> /dev/null || return 1
+    exec 3>&-
+}
+
+# one GET /reservation over bash's /dev/tcp, so polling doesn't fork a curl per attempt
+answers() {
+    local status=
+    { exec 3<> "/dev/tcp/127.0.0.1/${PORT}"; } 2> /dev/null || return 1
+    printf 'GET /reservation HTTP/1.0\r\nHost: localhost\r\n\r\n' >&3
+    read -r -t 1 status <&3 || true
+    exec 3>&-
+    [[ "${status}" == "HTTP/1."?" 200"* ]]
+}
+
+# startup time reported by the server, waiting briefly for the line to be flushed
+startup_ms() {
+    local line
+    for _ in $(seq 1 100); do
+        line=$(grep -o 'Startup completed in [0-9]*ms' "${SERVER_LOG}" || true)
+        if [[ -n "${line}" ]]; then
+            echo "${line//[!0-9]/}"
+            return
+        fi
+        sleep 0.01
+    done
+    return 1
+}
+
+# runs the given command RUNS times and prints startup, first request time and RSS for each run
+bench() {
+    local name=$1
+    shift
+
+    local total_startup=0
+    local total_first=0
+    local total_rss=0
+
+    for run in $(seq 1 "${RUNS}"); do
+        # anything already listening on the port would make the run report a bogus time
+        if port_in_use; then
+            echo "${name}: port ${PORT} is already in use" >&2
+            exit 1
+        fi
+
+        now_us
+        local start=${NOW_US}
+        MICRONAUT_SERVER_PORT="${PORT}" "$@" > "${SERVER_LOG}" 2>&1 &
+        SERVER_PID=$!
+
+        until answers; do
+            if ! kill -0 "${SERVER_PID}" 2> /dev/null; then
+                echo "${name}: process exited before serving a request, see output below" >&2
+                cat "${SERVER_LOG}" >&2
+                exit 1
+            fi
+            sleep "${POLL_INTERVAL}"
+        done
+
+        now_us
+        local first=$(( (NOW_US - start) / 1000 ))
+        local rss
+        rss=$(rss_kb "${SERVER_PID}")
+        local startup
+        if ! startup=$(startup_ms); then
+            echo "${name}: no 'Startup completed' line in the server output" >&2
+            exit 1
+        fi
+
+        stop_server
+
+        printf '%-6s run %d: startup %6d ms, first request %6d ms, rss %8d KB\n' \
+            "${name}" "${run}" "${startup}" "${first}" "${rss}"
+        total_startup=$(( total_startup + startup ))
+        total_first=$(( total_first + first ))
+        total_rss=$(( total_rss + rss ))
+    done
+
+    printf '%-6s avg:   startup %6d ms, first request %6d ms, rss %8d KB\n' "${name}" \
+        $(( total_startup / RUNS )) $(( total_first / RUNS )) $(( total_rss / RUNS ))
+}
+
+echo "polling every ${POLL_INTERVAL}s on port ${PORT}"
+
+if [[ "${MODE}" == "jvm" || "${MODE}" == "all" ]]; then
+    [[ -f "${JAR}" ]] || { echo "missing ${JAR}, run: mvn package" >&2; exit 1; }
+    bench jvm java -jar "${JAR}"
+fi
+
+if [[ "${MODE}" == "native" || "${MODE}" == "all" ]]; then
+    [[ -x "${NATIVE}" ]] || { echo "missing ${NATIVE}, run: mvn package -Pnative" >&2; exit 1; }
+    bench native "${NATIVE}"
+fi
@@ -0,0 +1,29 @@
+package com.example.codec;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.codec.CodecConfiguration;
+import io.micronaut.jackson.JacksonConfiguration;
+import io.micronaut.jackson.ObjectMapperFactory;
+import io.micronaut.runtime.ApplicationConfiguration;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+// CBOR (RFC 8949)
+@Singleton
+@Named(CborMediaTypeCodec.CONFIGURATION_QUALIFIER)
+public class CborMediaTypeCodec extends JacksonFormatMediaTypeCodec {
+
+    public static final String CONFIGURATION_QUALIFIER = "cbor";
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final MediaType APPLICATION_CBOR_TYPE = new MediaType(APPLICATION_CBOR);
+
+    public CborMediaTypeCodec(ObjectMapperFactory objectMapperFactory,
+                              @Nullable JacksonConfiguration jacksonConfiguration,
+                              ApplicationConfiguration applicationConfiguration,
+                              @Named(CONFIGURATION_QUALIFIER) @Nullable CodecConfiguration codecConfiguration) {
+        super(objectMapperFactory, jacksonConfiguration, new CBORFactory(),
+                applicationConfiguration, codecConfiguration, APPLICATION_CBOR_TYPE);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.codec.CodecConfiguration;
+import io.micronaut.jackson.JacksonConfiguration;
+import io.micronaut.jackson.ObjectMapperFactory;
+import io.micronaut.jackson.databind.JacksonDatabindMapper;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.json.codec.MapperMediaTypeCodec;
+import io.micronaut.runtime.ApplicationConfiguration;
+
+// Base for codecs that apply the application's Jackson configuration to another Jackson data format. Netty passes
+// its pooled allocator to encode(), so responses are serialized directly into a pooled ByteBuf
+public abstract class JacksonFormatMediaTypeCodec extends MapperMediaTypeCodec {
+
+    private final MediaType mediaType;
+
+    protected JacksonFormatMediaTypeCodec(ObjectMapperFactory objectMapperFactory,
+                                          @Nullable JacksonConfiguration jacksonConfiguration,
+                                          JsonFactory jsonFactory,
+                                          ApplicationConfiguration applicationConfiguration,
+                                          @Nullable CodecConfiguration codecConfiguration,
+                                          MediaType mediaType) {
+        this(new JacksonDatabindMapper(objectMapperFactory.objectMapper(jacksonConfiguration, jsonFactory)),
+                applicationConfiguration, codecConfiguration, mediaType);
+    }
+
+    private JacksonFormatMediaTypeCodec(JsonMapper jsonMapper,
+                                        ApplicationConfiguration applicationConfiguration,
+                                        @Nullable CodecConfiguration codecConfiguration,
+                                        MediaType mediaType) {
+        super(jsonMapper, applicationConfiguration, codecConfiguration, mediaType);
+        this.mediaType = mediaType;
+    }
+
+    @Override
+    protected MapperMediaTypeCodec cloneWithMapper(JsonMapper mapper) {
+        return new Copy(mapper, applicationConfiguration, codecConfiguration, mediaType);
+    }
+
+    // same format with a reconfigured mapper, e.g. for @JsonView
+    private static final class Copy extends JacksonFormatMediaTypeCodec {
+
+        private Copy(JsonMapper jsonMapper,
+                     ApplicationConfiguration applicationConfiguration,
+                     @Nullable CodecConfiguration codecConfiguration,
+                     MediaType mediaType) {
+            super(jsonMapper, applicationConfiguration, codecConfiguration, mediaType);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.codec;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.codec.CodecConfiguration;
+import io.micronaut.jackson.JacksonConfiguration;
+import io.micronaut.jackson.ObjectMapperFactory;
+import io.micronaut.runtime.ApplicationConfiguration;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+// Smile (binary JSON)
+@Singleton
+@Named(SmileMediaTypeCodec.CONFIGURATION_QUALIFIER)
+public class SmileMediaTypeCodec extends JacksonFormatMediaTypeCodec {
+
+    public static final String CONFIGURATION_QUALIFIER = "smile";
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE_TYPE = new MediaType(APPLICATION_SMILE);
+
+    public SmileMediaTypeCodec(ObjectMapperFactory objectMapperFactory,
+                               @Nullable JacksonConfiguration jacksonConfiguration,
+                               ApplicationConfiguration applicationConfiguration,
+                               @Named(CONFIGURATION_QUALIFIER) @Nullable CodecConfiguration codecConfiguration) {
+        super(objectMapperFactory, jacksonConfiguration, new SmileFactory(),
+                applicationConfiguration, codecConfiguration, APPLICATION_SMILE_TYPE);
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+// (de)serialized by ReservationModule, keep it in sync when adding fields
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -1,12 +1,17 @@
 package com.example.reservation;
 
+import com.example.codec.CborMediaTypeCodec;
+import com.example.codec.SmileMediaTypeCodec;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.*;
 import io.micronaut.http.exceptions.HttpStatusException;
 
 import java.util.Collection;
 
+// responses are encoded according to the Accept header, defaulting to JSON
 @Controller("/reservation")
+@Produces({MediaType.APPLICATION_JSON, SmileMediaTypeCodec.APPLICATION_SMILE, CborMediaTypeCodec.APPLICATION_CBOR})
 public class ReservationController {
     private final ReservationService reservationService;
 
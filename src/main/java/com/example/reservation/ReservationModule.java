@@ -0,0 +1,142 @@
+package com.example.reservation;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+
+// Hand-written (de)serializers for Reservation. Micronaut registers Module beans on every ObjectMapper it builds, so
+// the JSON, Smile and CBOR codecs stream Reservation fields directly instead of Jackson building reflective bean
+// (de)serializers for it
+@Singleton
+public class ReservationModule extends SimpleModule {
+
+    static final String PASSENGER_ID = "passengerId";
+    static final String RESERVATION_ID = "reservationId";
+    static final String FLIGHT_NUMBER = "flightNumber";
+
+    public ReservationModule() {
+        super(ReservationModule.class.getSimpleName());
+        addSerializer(Reservation.class, new ReservationSerializer());
+        addDeserializer(Reservation.class, new ReservationDeserializer());
+    }
+
+    public static class ReservationSerializer extends StdSerializer<Reservation> implements ContextualSerializer {
+
+        // pre-encoded field names, as the bean serializer uses
+        private static final SerializedString PASSENGER_ID_NAME = new SerializedString(PASSENGER_ID);
+        private static final SerializedString RESERVATION_ID_NAME = new SerializedString(RESERVATION_ID);
+        private static final SerializedString FLIGHT_NUMBER_NAME = new SerializedString(FLIGHT_NUMBER);
+
+        private final JsonInclude.Include inclusion;
+
+        public ReservationSerializer() {
+            this(JsonInclude.Include.ALWAYS);
+        }
+
+        private ReservationSerializer(JsonInclude.Include inclusion) {
+            super(Reservation.class);
+            this.inclusion = inclusion;
+        }
+
+        // honour the configured inclusion so the output matches what the bean serializer would write
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) {
+            var configured = provider.getConfig().getDefaultPropertyInclusion(Reservation.class).getValueInclusion();
+            return configured == inclusion ? this : new ReservationSerializer(configured);
+        }
+
+        @Override
+        public void serialize(Reservation reservation, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+
+            generator.writeStartObject(reservation);
+            if (!omit(reservation.getPassengerId())) {
+                generator.writeFieldName(PASSENGER_ID_NAME);
+                generator.writeString(reservation.getPassengerId());
+            }
+            if (!omit(reservation.getReservationId())) {
+                generator.writeFieldName(RESERVATION_ID_NAME);
+                generator.writeString(reservation.getReservationId());
+            }
+            if (reservation.getFlightNumber() != 0 || inclusion != JsonInclude.Include.NON_DEFAULT) {
+                generator.writeFieldName(FLIGHT_NUMBER_NAME);
+                generator.writeNumber(reservation.getFlightNumber());
+            }
+            generator.writeEndObject();
+        }
+
+        private boolean omit(String value) {
+            return switch (inclusion) {
+                case NON_NULL, NON_ABSENT -> value == null;
+                case NON_EMPTY, NON_DEFAULT -> value == null || value.isEmpty();
+                default -> false;
+            };
+        }
+    }
+
+    public static class ReservationDeserializer extends StdDeserializer<Reservation> {
+
+        public ReservationDeserializer() {
+            super(Reservation.class);
+        }
+
+        @Override
+        public Reservation deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+
+            var token = parser.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = parser.nextToken();
+            }
+            if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                return (Reservation) context.handleUnexpectedToken(Reservation.class, parser);
+            }
+
+            var builder = Reservation.builder();
+
+            for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                var field = parser.currentName();
+                parser.nextToken();
+
+                // unknown fields are skipped, like the application's ObjectMapper does
+                switch (field) {
+                    case PASSENGER_ID -> builder.passengerId(readString(parser, context));
+                    case RESERVATION_ID -> builder.reservationId(readString(parser, context));
+                    case FLIGHT_NUMBER -> builder.flightNumber(readInt(parser, context));
+                    default -> parser.skipChildren();
+                }
+            }
+
+            return builder.build();
+        }
+
+        // the expected token is read directly; anything else goes through Jackson's own coercion so conversions and
+        // errors match the reflective path
+        private static String readString(JsonParser parser, DeserializationContext context) throws IOException {
+            return switch (parser.currentToken()) {
+                case VALUE_STRING -> parser.getText();
+                case VALUE_NULL -> null;
+                default -> context.readValue(parser, String.class);
+            };
+        }
+
+        private int readInt(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                return parser.getIntValue();
+            }
+            return _parseIntPrimitive(parser, context);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.example;
+
+import com.example.codec.CborMediaTypeCodec;
+import com.example.codec.SmileMediaTypeCodec;
+import com.example.reservation.Reservation;
+import com.example.reservation.ReservationDao;
+import com.example.reservation.ReservationModule;
+import com.example.reservation.ReservationService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.buffer.netty.NettyByteBufferFactory;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.io.buffer.ByteBufferFactory;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.codec.MediaTypeCodec;
+import io.micronaut.http.codec.MediaTypeCodecRegistry;
+import io.micronaut.reactor.http.client.ReactorHttpClient;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@MicronautTest
+public class ReservationCodecTest {
+
+    private static final int RESERVATION_COUNT = 10_000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 50;
+
+    private static final Argument<List<Reservation>> RESERVATION_LIST = Argument.listOf(Reservation.class);
+    private static final TypeReference<List<Reservation>> RESERVATION_LIST_TYPE = new TypeReference<>() {
+    };
+
+    @Inject
+    MediaTypeCodecRegistry codecRegistry;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    @Client("/reservation")
+    ReactorHttpClient client;
+
+    @Inject
+    ReservationService reservationService;
+
+    private final ByteBufferFactory<ByteBufAllocator, ByteBuf> bufferFactory =
+            new NettyByteBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+    private List<Reservation> reservations;
+
+    @BeforeEach
+    void setup() {
+        reservations = IntStream.range(0, RESERVATION_COUNT)
+                .mapToObj(i -> Reservation.builder()
+                        .reservationId(UUID.randomUUID().toString())
+                        .flightNumber(i % 4 + 1)
+                        .passengerId("passenger" + i)
+                        .build())
+                .collect(Collectors.toList());
+
+        var db = new ReservationDao();
+        reservations.stream()
+                .limit(10)
+                .forEach(reservation -> db.getReservationMap().put(reservation.getReservationId(), reservation));
+        reservationService.setDb(db);
+    }
+
+    // every supported media type decodes back to the same reservations
+    @Test
+    void codecs_roundTrip() {
+        for (var mediaType : List.of(MediaType.APPLICATION_JSON_TYPE,
+                SmileMediaTypeCodec.APPLICATION_SMILE_TYPE,
+                CborMediaTypeCodec.APPLICATION_CBOR_TYPE)) {
+
+            var codec = findCodec(mediaType);
+            var buffer = codec.encode(reservations, bufferFactory);
+            try {
+                assertEquals(reservations, codec.decode(RESERVATION_LIST, buffer));
+            } finally {
+                release(buffer);
+            }
+        }
+    }
+
+    // binary encodings are smaller on the wire than JSON
+    @Test
+    void codecs_binarySmallerThanJson() {
+        var jsonBytes = findCodec(MediaType.APPLICATION_JSON_TYPE).encode(reservations).length;
+
+        assertTrue(findCodec(SmileMediaTypeCodec.APPLICATION_SMILE_TYPE).encode(reservations).length < jsonBytes);
+        assertTrue(findCodec(CborMediaTypeCodec.APPLICATION_CBOR_TYPE).encode(reservations).length < jsonBytes);
+    }
+
+    // Reservation is bound by ReservationModule rather than a reflective bean (de)serializer
+    @Test
+    void objectMapper_usesReservationModule() throws JsonMappingException {
+        var serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(Reservation.class);
+
+        assertInstanceOf(ReservationModule.ReservationSerializer.class, serializer);
+    }
+
+    // ReservationModule reads and writes the same JSON as the reflective bean (de)serializers
+    @Test
+    void reservationModule_matchesReflectiveJson() throws IOException {
+        var baseline = new ObjectMapper();
+
+        assertEquals(reservations,
+                baseline.readValue(objectMapper.writeValueAsBytes(reservations), RESERVATION_LIST_TYPE));
+        assertEquals(reservations,
+                objectMapper.readValue(baseline.writeValueAsBytes(reservations), RESERVATION_LIST_TYPE));
+    }
+
+    // logs bytes and encode/decode time per 10k reservations, only run with -Dbenchmark=true. The baseline is a plain
+    // ObjectMapper without ReservationModule, i.e. the reflective bean (de)serializers
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void codecs_benchmark() throws IOException {
+        var baseline = new ObjectMapper();
+        benchmark("JSON (reflective baseline)",
+                baseline::writeValue,
+                bytes -> baseline.readValue(bytes, RESERVATION_LIST_TYPE));
+
+        for (var mediaType : List.of(MediaType.APPLICATION_JSON_TYPE,
+                SmileMediaTypeCodec.APPLICATION_SMILE_TYPE,
+                CborMediaTypeCodec.APPLICATION_CBOR_TYPE)) {
+
+            var codec = findCodec(mediaType);
+            benchmark(mediaType.getName(),
+                    (output, value) -> codec.encode(value, output),
+                    bytes -> codec.decode(RESERVATION_LIST, bytes));
+        }
+    }
+
+    // the controller answers in the media type requested in the Accept header
+    @Test
+    void getReservations_negotiatesMediaType() {
+        for (var mediaType : List.of(MediaType.APPLICATION_JSON_TYPE,
+                SmileMediaTypeCodec.APPLICATION_SMILE_TYPE,
+                CborMediaTypeCodec.APPLICATION_CBOR_TYPE)) {
+
+            var response = client.exchange(HttpRequest.GET("").accept(mediaType), byte[].class).block();
+
+            assertNotNull(response);
+            assertEquals(mediaType.getName(), response.getHeaders().get(HttpHeaders.CONTENT_TYPE));
+
+            var body = findCodec(mediaType).decode(RESERVATION_LIST, response.body());
+            assertEquals(10, body.size());
+        }
+    }
+
+    private void benchmark(String label, Encoder encoder, Decoder decoder) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            decoder.decode(encodeToBytes(encoder));
+        }
+
+        var size = 0L;
+        var start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            var buffer = encode(encoder);
+            size = buffer.readableBytes();
+            release(buffer);
+        }
+        var encodeMicros = (System.nanoTime() - start) / MEASURED_ITERATIONS / 1_000;
+
+        var encoded = encodeToBytes(encoder);
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            decoder.decode(encoded);
+        }
+        var decodeMicros = (System.nanoTime() - start) / MEASURED_ITERATIONS / 1_000;
+
+        log.info("{} reservations as {}: {} bytes, encode {} us, decode {} us",
+                RESERVATION_COUNT, label, size, encodeMicros, decodeMicros);
+    }
+
+    // encodes into a pooled buffer, as the server does
+    private ByteBuffer<ByteBuf> encode(Encoder encoder) throws IOException {
+        var buffer = bufferFactory.buffer();
+        try (var output = buffer.toOutputStream()) {
+            encoder.encode(output, reservations);
+        }
+        return buffer;
+    }
+
+    private byte[] encodeToBytes(Encoder encoder) throws IOException {
+        var buffer = encode(encoder);
+        try {
+            return buffer.toByteArray();
+        } finally {
+            release(buffer);
+        }
+    }
+
+    private MediaTypeCodec findCodec(MediaType mediaType) {
+        return codecRegistry.findCodec(mediaType)
+                .orElseThrow(() -> new IllegalStateException("No codec for " + mediaType));
+    }
+
+    private static void release(ByteBuffer<?> buffer) {
+        ((ByteBuf) buffer.asNativeBuffer()).release();
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        void encode(OutputStream output, List<Reservation> reservations) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+        List<Reservation> decode(byte[] bytes) throws IOException;
+    }
+}